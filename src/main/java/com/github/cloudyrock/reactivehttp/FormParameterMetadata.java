@@ -0,0 +1,9 @@
+package com.github.cloudyrock.reactivehttp;
+
+final class FormParameterMetadata extends NamedParameterMetadata {
+
+    FormParameterMetadata(int index, String name) {
+        super(index, name);
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.github.cloudyrock.reactivehttp;
+
+import com.github.cloudyrock.dimmer.DimmerFeature;
+import com.github.cloudyrock.reactivehttp.annotations.BodyParam;
+import com.github.cloudyrock.reactivehttp.annotations.FormParam;
+import com.github.cloudyrock.reactivehttp.annotations.Header;
+import com.github.cloudyrock.reactivehttp.annotations.HeaderParam;
+import com.github.cloudyrock.reactivehttp.annotations.PartParam;
+import com.github.cloudyrock.reactivehttp.annotations.PathParam;
+import com.github.cloudyrock.reactivehttp.annotations.QueryParam;
+import com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Parsed metadata of a {@link ReactiveHttp} annotated type, shared by every proxy
+ * built for it. Instances are kept in a {@link ClassValue}, so they go away with
+ * the class and do not pin its classloader.
+ */
+final class InterfaceMetadata {
+
+    private static final ClassValue<InterfaceMetadata> CACHE = new ClassValue<InterfaceMetadata>() {
+        @Override
+        protected InterfaceMetadata computeValue(Class<?> type) {
+            return new InterfaceMetadata(type);
+        }
+    };
+
+    private final Map<String, Set<String>> defaultHeaders;
+    private final List<Method> annotatedMethods;
+    private final ConcurrentMap<Method, MethodMetadata> methodsMetadata = new ConcurrentHashMap<>();
+    private volatile boolean initialized;
+
+    static InterfaceMetadata forClass(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    private InterfaceMetadata(Class<?> type) {
+        this.defaultHeaders = Stream
+                .of(type.getAnnotationsByType(Header.class))
+                .collect(groupingBy(Header::name, mapping(Header::value, toSet())));
+        this.annotatedMethods = Collections.unmodifiableList(Stream
+                .of(type.getMethods())
+                .filter(InterfaceMetadata::isAnnotated)
+                .collect(toList()));
+    }
+
+    Map<String, Set<String>> getDefaultHeaders() {
+        return defaultHeaders;
+    }
+
+    List<Method> getAnnotatedMethods() {
+        return annotatedMethods;
+    }
+
+    void initializeAll() {
+        if (!initialized) {
+            annotatedMethods.forEach(this::getMethodMetadata);
+            initialized = true;
+        }
+    }
+
+    /**
+     * Returns the metadata for the given method, parsing it on first access,
+     * or null if the method is not annotated with {@link ReactiveHttp}.
+     */
+    MethodMetadata getMethodMetadata(Method method) {
+        final MethodMetadata metadata = methodsMetadata.get(method);
+        if (metadata != null || !isAnnotated(method)) {
+            return metadata;
+        }
+        return methodsMetadata.computeIfAbsent(method, InterfaceMetadata::buildMethodMetadata);
+    }
+
+    boolean isParsed(Method method) {
+        return methodsMetadata.containsKey(method);
+    }
+
+    private static boolean isAnnotated(Method method) {
+        return method.isAnnotationPresent(ReactiveHttp.class);
+    }
+
+    private static MethodMetadata buildMethodMetadata(Method method) {
+        final ReactiveHttp annotation = method.getAnnotation(ReactiveHttp.class);
+        final DimmerFeature dimmerFeature = method.getAnnotation(DimmerFeature.class);
+        final List<ParameterMetadata> parametersMetadata = buildParametersMetadata(method);
+
+        return new MethodMetadata(
+                annotation.httpMethod(),
+                annotation.url(),
+                extractContentType(method, annotation, parametersMetadata),
+                extractParameterizedType(method),
+                parametersMetadata,
+                extractDefaultHeadersMap(method),
+                dimmerFeature != null ? dimmerFeature.value() : null);
+    }
+
+    private static MediaType extractContentType(Method method,
+                                                ReactiveHttp annotation,
+                                                List<ParameterMetadata> parametersMetadata) {
+        final boolean hasBody = parametersMetadata.stream().anyMatch(p -> p instanceof BodyParameterMetadata);
+        final boolean hasForm = parametersMetadata.stream().anyMatch(p -> p instanceof FormParameterMetadata);
+        final boolean hasParts = parametersMetadata.stream().anyMatch(p -> p instanceof PartParameterMetadata);
+        if ((hasBody ? 1 : 0) + (hasForm ? 1 : 0) + (hasParts ? 1 : 0) > 1) {
+            throw new RuntimeException(String.format(
+                    "Method %s mixes body, form and part parameters", method.getName()));
+        }
+        if ((hasForm || hasParts) && !isMethodWithBody(annotation.httpMethod())) {
+            throw new RuntimeException(String.format(
+                    "Method %s has form or part parameters but %s requests carry no body",
+                    method.getName(), annotation.httpMethod()));
+        }
+        final MediaType contentType = MediaType.parseMediaType(annotation.contentType());
+        if (hasParts) {
+            return extractFormContentType(method, contentType, MediaType.MULTIPART_FORM_DATA);
+        } else if (hasForm) {
+            return extractFormContentType(method, contentType, MediaType.APPLICATION_FORM_URLENCODED);
+        } else {
+            return contentType;
+        }
+    }
+
+    /**
+     * Form and part parameters replace the default content type with the one they
+     * are written as. An explicit content type is kept only if it is compatible.
+     */
+    private static MediaType extractFormContentType(Method method,
+                                                    MediaType contentType,
+                                                    MediaType formContentType) {
+        if (MediaType.APPLICATION_JSON_VALUE.equals(contentType.toString())) {
+            return formContentType;
+        }
+        if (!formContentType.isCompatibleWith(contentType)) {
+            throw new RuntimeException(String.format(
+                    "Method %s declares content type %s but its parameters are sent as %s",
+                    method.getName(), contentType, formContentType));
+        }
+        return contentType;
+    }
+
+    static boolean isMethodWithBody(HttpMethod httpMethod) {
+        return HttpMethod.POST.equals(httpMethod)
+                || HttpMethod.PUT.equals(httpMethod)
+                || HttpMethod.PATCH.equals(httpMethod);
+    }
+
+    private static Map<String, Set<String>> extractDefaultHeadersMap(Method method) {
+        return Stream.of(method.getAnnotationsByType(Header.class))
+                .collect(groupingBy(Header::name, mapping(Header::value, toSet())));
+    }
+
+    private static Class extractParameterizedType(Method method) {
+        final ParameterizedType parameterizedType =
+                (ParameterizedType) method.getGenericReturnType();
+        return (Class) parameterizedType.getActualTypeArguments()[0];
+    }
+
+    private static List<ParameterMetadata> buildParametersMetadata(Method method) {
+        final List<ParameterMetadata> parameterMetadata = new ArrayList<>();
+        for (int index = 0; index < method.getParameters().length; index++) {
+            final Parameter parameter = method.getParameters()[index];
+            parameterMetadata.add(buildParameter(index, parameter));
+        }
+        return parameterMetadata;
+    }
+
+    private static ParameterMetadata buildParameter(int index, Parameter parameter) {
+        if (parameter.isAnnotationPresent(PathParam.class)) {
+            return buildPathParameter(index, parameter);
+        } else if (parameter.isAnnotationPresent(QueryParam.class)) {
+            return buildQueryParameter(index, parameter);
+        } else if (parameter.isAnnotationPresent(HeaderParam.class)) {
+            return buildHeaderParameter(index, parameter);
+        } else if (parameter.isAnnotationPresent(BodyParam.class)) {
+            return buildBodyParam(index);
+        } else if (parameter.isAnnotationPresent(FormParam.class)) {
+            return buildFormParameter(index, parameter);
+        } else if (parameter.isAnnotationPresent(PartParam.class)) {
+            return buildPartParameter(index, parameter);
+        } else {
+            throw new RuntimeException(String.format(
+                    "Parameter %s not annotated", parameter.getName()));
+        }
+    }
+
+    private static ParameterMetadata buildPathParameter(int index, Parameter parameter) {
+        final PathParam annotation = parameter.getAnnotation(PathParam.class);
+        return new PathParameterMetadata(index, annotation.value());
+    }
+
+    private static ParameterMetadata buildQueryParameter(int index, Parameter parameter) {
+        final QueryParam annotation = parameter.getAnnotation(QueryParam.class);
+        return new QueryParameterMetadata(index, annotation.value());
+    }
+
+    private static ParameterMetadata buildHeaderParameter(int index, Parameter parameter) {
+        final HeaderParam annotation = parameter.getAnnotation(HeaderParam.class);
+        return new HeaderParameterMetadata(index, annotation.value());
+    }
+
+    private static ParameterMetadata buildBodyParam(int index) {
+        return new BodyParameterMetadata(index);
+    }
+
+    private static ParameterMetadata buildFormParameter(int index, Parameter parameter) {
+        final FormParam annotation = parameter.getAnnotation(FormParam.class);
+        return new FormParameterMetadata(index, annotation.value());
+    }
+
+    private static ParameterMetadata buildPartParameter(int index, Parameter parameter) {
+        final PartParam annotation = parameter.getAnnotation(PartParam.class);
+        return new PartParameterMetadata(index, annotation.value(), extractPartElementType(parameter));
+    }
+
+    private static Class<?> extractPartElementType(Parameter parameter) {
+        if (!Publisher.class.isAssignableFrom(parameter.getType())) {
+            return null;
+        }
+        final Class<?> elementType = ResolvableType
+                .forType(parameter.getParameterizedType())
+                .as(Publisher.class)
+                .resolveGeneric(0);
+        if (elementType == null) {
+            throw new RuntimeException(String.format(
+                    "Cannot resolve the element type of publisher part %s", parameter.getName()));
+        }
+        return elementType;
+    }
+
+}
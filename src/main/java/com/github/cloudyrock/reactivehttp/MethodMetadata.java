@@ -16,7 +16,7 @@ final class MethodMetadata {
     private final HttpMethod httpMethod;
     private final List<ParameterMetadata> parametersMetadata;
     private final Map<String, Set<String>> defaultHeaders;
-    private final String dimmerFeature;
+    private final Optional<String> dimmerFeature;
 
     MethodMetadata(HttpMethod httpMethod,
                    String url,
@@ -31,7 +31,7 @@ final class MethodMetadata {
         this.contentType = contentType;
         this.parametersMetadata = parametersMetadata;
         this.defaultHeaders = defaultHeaders;
-        this.dimmerFeature = dimmerFeature;
+        this.dimmerFeature = Optional.ofNullable(dimmerFeature);
     }
 
     String getUrl() {
@@ -59,6 +59,6 @@ final class MethodMetadata {
     }
 
     Optional<String> getDimmerFeature() {
-        return Optional.ofNullable(dimmerFeature);
+        return dimmerFeature;
     }
 }
@@ -0,0 +1,19 @@
+package com.github.cloudyrock.reactivehttp;
+
+final class PartParameterMetadata extends NamedParameterMetadata {
+
+    private final Class<?> elementType;
+
+    PartParameterMetadata(int index, String name, Class<?> elementType) {
+        super(index, name);
+        this.elementType = elementType;
+    }
+
+    /**
+     * Element type of a publisher part, or null if the part is not a publisher.
+     */
+    Class<?> getElementType() {
+        return elementType;
+    }
+
+}
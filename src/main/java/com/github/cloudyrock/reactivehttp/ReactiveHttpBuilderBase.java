@@ -1,11 +1,44 @@
 package com.github.cloudyrock.reactivehttp;
 
 import com.github.cloudyrock.dimmer.FeatureExecutor;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 
 public interface ReactiveHttpBuilderBase {
 
+    /**
+     * Executor deciding the Dimmer features of the proxied methods. It is consulted
+     * on every call, unless the feature is enabled in the
+     * {@link #dimmerFeatureToggles(ReactiveHttpFeatureToggles) feature toggles}.
+     */
     ReactiveHttpBuilderBase dimmerFeatureExecutor(FeatureExecutor featureExecutor);
 
+    /**
+     * Toggles letting enabled features skip the FeatureExecutor. Changes to them
+     * are seen by the proxies already built.
+     */
+    ReactiveHttpBuilderBase dimmerFeatureToggles(ReactiveHttpFeatureToggles featureToggles);
+
+    /**
+     * Parses each method's annotations on its first call instead of in target().
+     * Configuration errors of a method are then thrown by that first call rather
+     * than by target().
+     */
+    ReactiveHttpBuilderBase lazyInitialization(boolean lazyInitialization);
+
+    /**
+     * Header used to send the time left of a {@link ReactiveHttpDeadline} downstream.
+     * Defaults to grpc-timeout; null stops propagating it. Only the name changes:
+     * the value is always in grpc-timeout format (digits plus a unit, e.g. "300m"),
+     * so servers reading it under another name must parse that format.
+     */
+    ReactiveHttpBuilderBase deadlineHeader(String deadlineHeader);
+
+    /**
+     * Connector used by the underlying WebClient, e.g. to size its connection pool.
+     * Defaults to the WebClient's own connector.
+     */
+    ReactiveHttpBuilderBase clientConnector(ClientHttpConnector clientConnector);
+
     @SuppressWarnings("unchecked")
     <T> T target(Class<T> tClass, String host);
 
@@ -2,16 +2,13 @@ package com.github.cloudyrock.reactivehttp;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.github.cloudyrock.dimmer.DimmerFeature;
 import com.github.cloudyrock.dimmer.FeatureExecutor;
-import com.github.cloudyrock.reactivehttp.annotations.BodyParam;
-import com.github.cloudyrock.reactivehttp.annotations.Header;
-import com.github.cloudyrock.reactivehttp.annotations.HeaderParam;
-import com.github.cloudyrock.reactivehttp.annotations.PathParam;
-import com.github.cloudyrock.reactivehttp.annotations.QueryParam;
-import com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp;
+import com.github.cloudyrock.reactivehttp.exception.ReactiveHttpConfigurationException;
+import org.springframework.cglib.proxy.Callback;
 import org.springframework.cglib.proxy.Enhancer;
-import org.springframework.http.MediaType;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.NoOp;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.codec.ClientCodecConfigurer;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
@@ -19,28 +16,30 @@ import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.lang.reflect.ParameterizedType;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toSet;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
 final class ReactiveHttpBuilderImpl implements ReactiveHttpBuilderJackson {
 
+    private static final String DEFAULT_DEADLINE_HEADER = "grpc-timeout";
+
+    private static final MethodInterceptor UNMAPPED_METHOD_CALLBACK = (object, method, args, proxy) -> {
+        throw new ReactiveHttpConfigurationException(String.format(
+                "Method %s is not annotated with @ReactiveHttp", method.getName()));
+    };
+
     private ObjectMapper jacksonDecoderMapper;
     private ObjectMapper jacksonEncoderMapper;
 
     private final ParserType parserType;
     private FeatureExecutor featureExecutor;
+    private ReactiveHttpFeatureToggles featureToggles;
+    private boolean lazyInitialization;
+    private String deadlineHeader = DEFAULT_DEADLINE_HEADER;
+    private ClientHttpConnector clientConnector;
 
     enum ParserType {JACKSON}
 
@@ -62,6 +61,30 @@ final class ReactiveHttpBuilderImpl implements ReactiveHttpBuilderJackson {
         return this;
     }
 
+    @Override
+    public ReactiveHttpBuilderBase dimmerFeatureToggles(ReactiveHttpFeatureToggles featureToggles) {
+        this.featureToggles = featureToggles;
+        return this;
+    }
+
+    @Override
+    public ReactiveHttpBuilderBase lazyInitialization(boolean lazyInitialization) {
+        this.lazyInitialization = lazyInitialization;
+        return this;
+    }
+
+    @Override
+    public ReactiveHttpBuilderBase deadlineHeader(String deadlineHeader) {
+        this.deadlineHeader = deadlineHeader;
+        return this;
+    }
+
+    @Override
+    public ReactiveHttpBuilderBase clientConnector(ClientHttpConnector clientConnector) {
+        this.clientConnector = clientConnector;
+        return this;
+    }
+
     @Override
     public ReactiveHttpBuilderJackson setEncoderMapper(ObjectMapper mapper) {
         jacksonEncoderMapper = mapper;
@@ -75,34 +98,57 @@ final class ReactiveHttpBuilderImpl implements ReactiveHttpBuilderJackson {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T target(Class<T> tClass, String host) {
 
-        final Collector<Method, ?, Map<Method, MethodMetadata>> collectorFunction =
-                Collectors.toMap(m -> m, ReactiveHttpBuilderImpl::buildMethodMetadata);
-
-        final Map<Method, MethodMetadata> methodMetadataMap = Stream
-                .of(tClass.getMethods())
-                .filter(ReactiveHttpBuilderImpl::isAnnotated)
-                .collect(collectorFunction);
-
-        final Map<String, Set<String>> defaultHeaders = Stream
-                .of(tClass.getAnnotationsByType(Header.class))
-                .collect(groupingBy(Header::name, mapping(Header::value, toSet())));
+        final InterfaceMetadata interfaceMetadata = InterfaceMetadata.forClass(tClass);
+        if (!lazyInitialization) {
+            interfaceMetadata.initializeAll();
+        }
 
         final ReactiveHttpInterceptor interceptor;
         if (featureExecutor != null) {
             interceptor = new ReactiveHttpDimmerInterceptor(
-                    buildClient(host, defaultHeaders),
-                    methodMetadataMap,
-                    featureExecutor);
+                    buildClient(host, interfaceMetadata.getDefaultHeaders()),
+                    deadlineHeader,
+                    featureExecutor,
+                    featureToggles);
         } else {
             interceptor = new ReactiveHttpInterceptor(
-                    buildClient(host, defaultHeaders),
-                    methodMetadataMap);
+                    buildClient(host, interfaceMetadata.getDefaultHeaders()),
+                    deadlineHeader);
         }
-        return (T) Enhancer.create(tClass, interceptor);
 
+        return createProxy(tClass, interfaceMetadata, interceptor, lazyInitialization);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T createProxy(Class<T> tClass,
+                             InterfaceMetadata interfaceMetadata,
+                             ReactiveHttpInterceptor interceptor,
+                             boolean lazyInitialization) {
+        final Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(tClass);
+        enhancer.setCallbackFilter(new ReactiveHttpCallbackFilter(interfaceMetadata));
+        enhancer.setCallbacks(buildCallbacks(interceptor, interfaceMetadata, lazyInitialization));
+        return (T) enhancer.create();
+    }
+
+    private static Callback[] buildCallbacks(ReactiveHttpInterceptor interceptor,
+                                             InterfaceMetadata interfaceMetadata,
+                                             boolean lazyInitialization) {
+        final List<Method> annotatedMethods = interfaceMetadata.getAnnotatedMethods();
+        final Callback[] callbacks =
+                new Callback[annotatedMethods.size() + ReactiveHttpCallbackFilter.FIRST_METHOD_INDEX];
+        callbacks[ReactiveHttpCallbackFilter.UNMAPPED_METHOD_INDEX] = UNMAPPED_METHOD_CALLBACK;
+        callbacks[ReactiveHttpCallbackFilter.OBJECT_METHOD_INDEX] = NoOp.INSTANCE;
+        for (int index = 0; index < annotatedMethods.size(); index++) {
+            final Method method = annotatedMethods.get(index);
+            callbacks[index + ReactiveHttpCallbackFilter.FIRST_METHOD_INDEX] = lazyInitialization
+                    ? new ReactiveHttpLazyMethodCallback(interceptor, interfaceMetadata, method)
+                    : new ReactiveHttpMethodCallback(interceptor, interfaceMetadata.getMethodMetadata(method));
+        }
+        return callbacks;
     }
 
     private WebClient buildClient(String baseUrl,
@@ -114,6 +160,10 @@ final class ReactiveHttpBuilderImpl implements ReactiveHttpBuilderJackson {
                 .exchangeStrategies(strategies)
                 .baseUrl(baseUrl);
 
+        if (clientConnector != null) {
+            builder.clientConnector(clientConnector);
+        }
+
         headers.keySet().forEach(key -> builder.defaultHeader(key, headers.get(key).toArray(new String[0])));
 
         return builder.build();
@@ -145,76 +195,4 @@ final class ReactiveHttpBuilderImpl implements ReactiveHttpBuilderJackson {
 
     }
 
-    private static boolean isAnnotated(Method method) {
-        return method.isAnnotationPresent(ReactiveHttp.class);
-    }
-
-    private static MethodMetadata buildMethodMetadata(Method method) {
-        final ReactiveHttp annotation = method.getAnnotation(ReactiveHttp.class);
-        final DimmerFeature dimmerFeature = method.getAnnotation(DimmerFeature.class);
-
-        return new MethodMetadata(
-                annotation.httpMethod(),
-                annotation.url(),
-                MediaType.parseMediaType(annotation.contentType()),
-                extractParameterizedType(method),
-                buildParametersMetadata(method),
-                extractDefaultHeadersMap(method),
-                dimmerFeature != null ? dimmerFeature.value() : null);
-    }
-
-    private static Map<String, Set<String>> extractDefaultHeadersMap(Method method) {
-        return Stream.of(method.getAnnotationsByType(Header.class))
-                .collect(groupingBy(Header::name, mapping(Header::value, toSet())));
-    }
-
-    private static Class extractParameterizedType(Method method) {
-        final ParameterizedType parameterizedType =
-                (ParameterizedType) method.getGenericReturnType();
-        return (Class) parameterizedType.getActualTypeArguments()[0];
-    }
-
-    private static List<ParameterMetadata> buildParametersMetadata(Method method) {
-        final List<ParameterMetadata> parameterMetadata = new ArrayList<>();
-        for (int index = 0; index < method.getParameters().length; index++) {
-            final Parameter parameter = method.getParameters()[index];
-            parameterMetadata.add(buildParameter(index, parameter));
-        }
-        return parameterMetadata;
-    }
-
-    private static ParameterMetadata buildParameter(int index, Parameter parameter) {
-        if (parameter.isAnnotationPresent(PathParam.class)) {
-            return buildPathParameter(index, parameter);
-        } else if (parameter.isAnnotationPresent(QueryParam.class)) {
-            return buildQueryParameter(index, parameter);
-        } else if (parameter.isAnnotationPresent(HeaderParam.class)) {
-            return buildHeaderParameter(index, parameter);
-        } else if (parameter.isAnnotationPresent(BodyParam.class)) {
-            return buildBodyParam(index);
-        } else {
-            throw new RuntimeException(String.format(
-                    "Parameter %s not annotated", parameter.getName()));
-        }
-    }
-
-    private static ParameterMetadata buildPathParameter(int index, Parameter parameter) {
-        final PathParam annotation = parameter.getAnnotation(PathParam.class);
-        return new PathParameterMetadata(index, annotation.value());
-    }
-
-    private static ParameterMetadata buildQueryParameter(int index, Parameter parameter) {
-        final QueryParam annotation = parameter.getAnnotation(QueryParam.class);
-        return new QueryParameterMetadata(index, annotation.value());
-    }
-
-    private static ParameterMetadata buildHeaderParameter(int index, Parameter parameter) {
-        final HeaderParam annotation = parameter.getAnnotation(HeaderParam.class);
-        return new HeaderParameterMetadata(index, annotation.value());
-    }
-
-    private static ParameterMetadata buildBodyParam(int index) {
-        return new BodyParameterMetadata(index);
-    }
-
 }
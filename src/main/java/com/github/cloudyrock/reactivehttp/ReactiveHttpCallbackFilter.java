@@ -0,0 +1,50 @@
+package com.github.cloudyrock.reactivehttp;
+
+import org.springframework.cglib.proxy.CallbackFilter;
+
+import java.lang.reflect.Method;
+
+/**
+ * Maps every annotated method to its own callback, at its position in
+ * {@link InterfaceMetadata#getAnnotatedMethods()} plus {@link #FIRST_METHOD_INDEX}.
+ * Methods declared by {@link Object} go to the callback at {@link #OBJECT_METHOD_INDEX}
+ * and any other method to the one at {@link #UNMAPPED_METHOD_INDEX}.
+ */
+final class ReactiveHttpCallbackFilter implements CallbackFilter {
+
+    static final int UNMAPPED_METHOD_INDEX = 0;
+    static final int OBJECT_METHOD_INDEX = 1;
+    static final int FIRST_METHOD_INDEX = 2;
+
+    private final InterfaceMetadata interfaceMetadata;
+
+    ReactiveHttpCallbackFilter(InterfaceMetadata interfaceMetadata) {
+        this.interfaceMetadata = interfaceMetadata;
+    }
+
+    @Override
+    public int accept(Method method) {
+        if (Object.class.equals(method.getDeclaringClass())) {
+            return OBJECT_METHOD_INDEX;
+        }
+        final int index = interfaceMetadata.getAnnotatedMethods().indexOf(method);
+        return index < 0 ? UNMAPPED_METHOD_INDEX : index + FIRST_METHOD_INDEX;
+    }
+
+    // Enhancer caches generated classes by filter, so filters over the same
+    // type must be equal to reuse the proxy class across target() calls.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ReactiveHttpCallbackFilter that = (ReactiveHttpCallbackFilter) o;
+
+        return interfaceMetadata == that.interfaceMetadata;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(interfaceMetadata);
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.cloudyrock.reactivehttp;
+
+import java.time.Duration;
+
+/**
+ * Point in time by which a call must complete. Put it in the subscriber context
+ * under {@link #CONTEXT_KEY} and every proxied request in that subscription
+ * caps its timeout to what is left and sends it downstream as a header.
+ * The header value always uses the grpc-timeout format, e.g. "300m" or "2S",
+ * whatever header name the builder is configured with.
+ *
+ * <pre>
+ * client.getUser(id)
+ *       .subscriberContext(Context.of(ReactiveHttpDeadline.CONTEXT_KEY,
+ *                                     ReactiveHttpDeadline.after(Duration.ofMillis(300))));
+ * </pre>
+ */
+public final class ReactiveHttpDeadline {
+
+    public static final String CONTEXT_KEY = ReactiveHttpDeadline.class.getName();
+
+    private static final long MAX_TIMEOUT_VALUE = 99_999_999L;
+    private static final char[] TIMEOUT_UNITS = {'n', 'u', 'm', 'S', 'M', 'H'};
+    private static final long[] TIMEOUT_UNIT_FACTORS = {1000L, 1000L, 1000L, 60L, 60L};
+
+    private final long deadlineNanos;
+
+    private ReactiveHttpDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static ReactiveHttpDeadline after(Duration timeout) {
+        return new ReactiveHttpDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * Formats a remaining time as a grpc-timeout value: at most eight digits
+     * followed by a unit, using the finest unit that fits.
+     */
+    static String toTimeoutHeaderValue(Duration remaining) {
+        long value = remaining.toNanos();
+        int unit = 0;
+        while (value > MAX_TIMEOUT_VALUE && unit < TIMEOUT_UNIT_FACTORS.length) {
+            value /= TIMEOUT_UNIT_FACTORS[unit];
+            unit++;
+        }
+        return Math.min(value, MAX_TIMEOUT_VALUE) + String.valueOf(TIMEOUT_UNITS[unit]);
+    }
+
+}
@@ -3,8 +3,6 @@ package com.github.cloudyrock.reactivehttp;
 import com.github.cloudyrock.dimmer.FeatureExecutor;
 import com.github.cloudyrock.dimmer.FeatureInvocation;
 import com.github.cloudyrock.reactivehttp.exception.ReactiveHttpRuntimeException;
-import org.springframework.cglib.proxy.MethodInterceptor;
-import org.springframework.cglib.proxy.MethodProxy;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -12,8 +10,9 @@ import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -24,22 +23,30 @@ import static org.springframework.http.HttpMethod.PUT;
 class ReactiveHttpDimmerInterceptor extends ReactiveHttpInterceptor {
 
     private final FeatureExecutor featureExecutor;
+    private final ReactiveHttpFeatureToggles featureToggles;
+
+    /**
+     * Toggle state of each method, valid while the toggles keep the version it was
+     * read at.
+     */
+    private final ConcurrentMap<MethodMetadata, ToggleState> toggleStates = new ConcurrentHashMap<>();
 
     ReactiveHttpDimmerInterceptor(WebClient client,
-                                  Map<Method, MethodMetadata> metadataMap,
-                                  FeatureExecutor featureExecutor) {
-        super(client, metadataMap);
+                                  String deadlineHeader,
+                                  FeatureExecutor featureExecutor,
+                                  ReactiveHttpFeatureToggles featureToggles) {
+        super(client, deadlineHeader);
         this.featureExecutor = featureExecutor;
+        this.featureToggles = featureToggles;
     }
 
     @Override
-    public Object intercept(Object object,
-                            Method method,
-                            Object[] execParams,
-                            MethodProxy methodProxy) throws Throwable {
-
-        final MethodMetadata callMetadata = extractCallMetadata(method);
-        if(callMetadata.getDimmerFeature().isPresent()) {
+    Object intercept(Object object,
+                     Method method,
+                     Object[] execParams,
+                     MethodMetadata callMetadata) throws Throwable {
+        final Optional<String> feature = callMetadata.getDimmerFeature();
+        if(feature.isPresent() && !isEnabled(feature.get(), callMetadata)) {
             return executeDimmerFeature(object, method, execParams, callMetadata);
         } else {
             return defaultIntercept(execParams, callMetadata);
@@ -59,6 +66,20 @@ class ReactiveHttpDimmerInterceptor extends ReactiveHttpInterceptor {
                 () -> defaultIntercept(execParams, callMetadata));
     }
 
+    private boolean isEnabled(String feature, MethodMetadata callMetadata) {
+        if (featureToggles == null) {
+            return false;
+        }
+        final long version = featureToggles.getVersion();
+        final ToggleState state = toggleStates.get(callMetadata);
+        if (state != null && state.version == version) {
+            return state.enabled;
+        }
+        final boolean enabled = featureToggles.isEnabled(feature);
+        toggleStates.put(callMetadata, new ToggleState(version, enabled));
+        return enabled;
+    }
+
     private FeatureInvocation createFeatureInvocation(String feature,
                                                       Object calledObject,
                                                       Method calledMethod,
@@ -71,4 +92,15 @@ class ReactiveHttpDimmerInterceptor extends ReactiveHttpInterceptor {
                 calledMethod.getReturnType());
     }
 
+    private static final class ToggleState {
+
+        private final long version;
+        private final boolean enabled;
+
+        private ToggleState(long version, boolean enabled) {
+            this.version = version;
+            this.enabled = enabled;
+        }
+    }
+
 }
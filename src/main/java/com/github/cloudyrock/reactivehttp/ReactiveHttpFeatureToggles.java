@@ -0,0 +1,41 @@
+package com.github.cloudyrock.reactivehttp;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Explicit on/off signal for Dimmer features, shared with the proxies built with it.
+ * A feature marked as enabled is called straight away, without going through the
+ * FeatureExecutor, so it must only be enabled when the executor would let every call
+ * of that feature through. Any other feature is decided by the executor on each call.
+ * <p>
+ * Every change bumps a version that invalidates the toggle state cached by the
+ * proxies, so live proxies see it on their next call.
+ */
+public final class ReactiveHttpFeatureToggles {
+
+    private final Set<String> enabledFeatures = ConcurrentHashMap.newKeySet();
+    private final AtomicLong version = new AtomicLong();
+
+    public ReactiveHttpFeatureToggles enable(String feature) {
+        enabledFeatures.add(feature);
+        version.incrementAndGet();
+        return this;
+    }
+
+    public ReactiveHttpFeatureToggles disable(String feature) {
+        enabledFeatures.remove(feature);
+        version.incrementAndGet();
+        return this;
+    }
+
+    long getVersion() {
+        return version.get();
+    }
+
+    boolean isEnabled(String feature) {
+        return enabledFeatures.contains(feature);
+    }
+
+}
@@ -1,59 +1,56 @@
 package com.github.cloudyrock.reactivehttp;
 
 import com.github.cloudyrock.reactivehttp.exception.ReactiveHttpRuntimeException;
-import org.springframework.cglib.proxy.MethodInterceptor;
-import org.springframework.cglib.proxy.MethodProxy;
-import org.springframework.http.HttpMethod;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
-import static org.springframework.http.HttpMethod.PATCH;
-import static org.springframework.http.HttpMethod.POST;
-import static org.springframework.http.HttpMethod.PUT;
-
-class ReactiveHttpInterceptor implements MethodInterceptor {
+class ReactiveHttpInterceptor {
 
     private final WebClient client;
-    private final Map<Method, MethodMetadata> metadataMap;
+    private final String deadlineHeader;
 
-    ReactiveHttpInterceptor(WebClient client, Map<Method, MethodMetadata> metadataMap) {
+    ReactiveHttpInterceptor(WebClient client, String deadlineHeader) {
         this.client = client;
-        this.metadataMap = metadataMap;
+        this.deadlineHeader = deadlineHeader;
     }
 
-    @Override
-    public Object intercept(Object calledObject,
-                            Method calledMethod,
-                            Object[] execParams,
-                            MethodProxy methodProxy) throws Throwable {
-        final MethodMetadata callMetadata = extractCallMetadata(calledMethod);
+    Object intercept(Object calledObject,
+                     Method calledMethod,
+                     Object[] execParams,
+                     MethodMetadata callMetadata) throws Throwable {
         return defaultIntercept(execParams, callMetadata);
-
     }
 
     Object defaultIntercept(Object[] execParams, MethodMetadata callMetadata) {
+        return runRequest(callMetadata, execParams);
+    }
+
+    /**
+     * Builds a new request for every subscription, so each one only carries the
+     * deadline of its own subscriber context.
+     */
+    WebClient.RequestBodySpec buildRequest(MethodMetadata callMetadata, Object[] execParams) {
         final String urlWithParams = buildUrlWithParams(callMetadata, execParams);
         final WebClient.RequestBodySpec spec = initRequest(callMetadata, urlWithParams);
         addDefaultHeaders(spec, callMetadata);
         addHeadersParam(spec, callMetadata, execParams);
         addBodyParam(spec, callMetadata, execParams);
-        return runRequest(callMetadata, spec);
-    }
-
-    MethodMetadata extractCallMetadata(Method calledMethod) {
-        MethodMetadata metadata = metadataMap.get(calledMethod);
-        if (metadata == null) {
-            throw new RuntimeException(
-                    String.format("Not found metadata for method %s",
-                            calledMethod.getName()));
-        }
-        return metadata;
+        return spec;
     }
 
     String buildUrlWithParams(MethodMetadata metadata,
@@ -110,18 +107,62 @@ class ReactiveHttpInterceptor implements MethodInterceptor {
     void addBodyParam(WebClient.RequestBodySpec bodySpec,
                       MethodMetadata callMetadata,
                       Object[] parametersExecution) {
-        if (isMethodWithBody(callMetadata)) {
-            callMetadata.getParametersMetadata()
-                    .stream()
-                    .filter(ReactiveHttpInterceptor::isBodyParam)
-                    .mapToInt(ParameterMetadata::getIndex)
-                    .mapToObj(index -> parametersExecution[index])
-                    .findFirst()
-                    .map(BodyInserters::fromObject)
-                    .ifPresent(bodySpec::body);
+        if (InterfaceMetadata.isMethodWithBody(callMetadata.getHttpMethod())) {
+            if (hasParam(callMetadata, ReactiveHttpInterceptor::isPartParam)) {
+                bodySpec.body(BodyInserters.fromMultipartData(
+                        buildMultipartData(callMetadata, parametersExecution)));
+            } else if (hasParam(callMetadata, ReactiveHttpInterceptor::isFormParam)) {
+                bodySpec.body(BodyInserters.fromFormData(
+                        buildFormData(callMetadata, parametersExecution)));
+            } else {
+                callMetadata.getParametersMetadata()
+                        .stream()
+                        .filter(ReactiveHttpInterceptor::isBodyParam)
+                        .mapToInt(ParameterMetadata::getIndex)
+                        .mapToObj(index -> parametersExecution[index])
+                        .findFirst()
+                        .map(BodyInserters::fromObject)
+                        .ifPresent(bodySpec::body);
+            }
         }
     }
 
+    private MultiValueMap<String, String> buildFormData(MethodMetadata callMetadata,
+                                                        Object[] parametersExecution) {
+        final MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        callMetadata.getParametersMetadata().stream()
+                .filter(ReactiveHttpInterceptor::isFormParam)
+                .map(param -> (NamedParameterMetadata) param)
+                .filter(param -> parametersExecution[param.getIndex()] != null)
+                .forEach(param -> formData.add(param.getName(), parametersExecution[param.getIndex()].toString()));
+        return formData;
+    }
+
+    /**
+     * Files and publishers are handed to the writers as they are, so their
+     * content is streamed into the request instead of being read into memory.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private MultiValueMap<String, ?> buildMultipartData(MethodMetadata callMetadata,
+                                                       Object[] parametersExecution) {
+        final MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        callMetadata.getParametersMetadata().stream()
+                .filter(ReactiveHttpInterceptor::isPartParam)
+                .map(param -> (PartParameterMetadata) param)
+                .filter(param -> parametersExecution[param.getIndex()] != null)
+                .forEach(param -> {
+                    final Object value = parametersExecution[param.getIndex()];
+                    if (value instanceof Path) {
+                        builder.part(param.getName(), new FileSystemResource(((Path) value).toFile()));
+                    } else if (param.getElementType() != null) {
+                        builder.asyncPart(param.getName(), (Publisher) value, (Class) param.getElementType());
+                    } else {
+                        builder.part(param.getName(), value);
+                    }
+                });
+        return builder.build();
+    }
+
     void addDefaultHeaders(WebClient.RequestBodySpec spec,
                            MethodMetadata callMetadata) {
         callMetadata.getDefaultHeaders()
@@ -138,7 +179,27 @@ class ReactiveHttpInterceptor implements MethodInterceptor {
     }
 
     Mono<Object> runRequest(MethodMetadata metadata,
-                            WebClient.RequestBodySpec bodySpec) {
+                            Object[] execParams) {
+        return Mono.subscriberContext().flatMap(context -> {
+            final Optional<ReactiveHttpDeadline> deadline =
+                    context.getOrEmpty(ReactiveHttpDeadline.CONTEXT_KEY);
+            if (!deadline.isPresent()) {
+                return exchange(metadata, buildRequest(metadata, execParams));
+            }
+            final Duration remaining = deadline.get().remaining();
+            if (remaining.isZero() || remaining.isNegative()) {
+                return Mono.error(new TimeoutException("Deadline exceeded before sending the request"));
+            }
+            final WebClient.RequestBodySpec bodySpec = buildRequest(metadata, execParams);
+            if (deadlineHeader != null) {
+                bodySpec.header(deadlineHeader, ReactiveHttpDeadline.toTimeoutHeaderValue(remaining));
+            }
+            return exchange(metadata, bodySpec).timeout(remaining);
+        });
+    }
+
+    private Mono<Object> exchange(MethodMetadata metadata,
+                                  WebClient.RequestBodySpec bodySpec) {
         try {
             return bodySpec
                     .exchange()
@@ -155,13 +216,6 @@ class ReactiveHttpInterceptor implements MethodInterceptor {
                 .contentType(metadata.getContentType());
     }
 
-    private boolean isMethodWithBody(MethodMetadata callMetadata) {
-        final HttpMethod callMethod = callMetadata.getHttpMethod();
-        return POST.equals(callMethod)
-                | PUT.equals(callMethod)
-                || PATCH.equals(callMethod);
-    }
-
     private static boolean isPathParam(ParameterMetadata parameterMetadata) {
         return parameterMetadata instanceof PathParameterMetadata;
     }
@@ -178,4 +232,17 @@ class ReactiveHttpInterceptor implements MethodInterceptor {
         return parameterMetadata instanceof BodyParameterMetadata;
     }
 
+    private static boolean isFormParam(ParameterMetadata parameterMetadata) {
+        return parameterMetadata instanceof FormParameterMetadata;
+    }
+
+    private static boolean isPartParam(ParameterMetadata parameterMetadata) {
+        return parameterMetadata instanceof PartParameterMetadata;
+    }
+
+    private static boolean hasParam(MethodMetadata callMetadata,
+                                    Predicate<ParameterMetadata> predicate) {
+        return callMetadata.getParametersMetadata().stream().anyMatch(predicate);
+    }
+
 }
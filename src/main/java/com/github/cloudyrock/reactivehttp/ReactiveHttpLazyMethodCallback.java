@@ -0,0 +1,44 @@
+package com.github.cloudyrock.reactivehttp;
+
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * Lazy variant of {@link ReactiveHttpMethodCallback}, parsing the metadata of its
+ * method on the first call.
+ */
+final class ReactiveHttpLazyMethodCallback implements MethodInterceptor {
+
+    private final ReactiveHttpInterceptor interceptor;
+    private final InterfaceMetadata interfaceMetadata;
+    private final Method method;
+    private volatile MethodMetadata metadata;
+
+    ReactiveHttpLazyMethodCallback(ReactiveHttpInterceptor interceptor,
+                                   InterfaceMetadata interfaceMetadata,
+                                   Method method) {
+        this.interceptor = interceptor;
+        this.interfaceMetadata = interfaceMetadata;
+        this.method = method;
+    }
+
+    @Override
+    public Object intercept(Object calledObject,
+                            Method calledMethod,
+                            Object[] execParams,
+                            MethodProxy methodProxy) throws Throwable {
+        return interceptor.intercept(calledObject, calledMethod, execParams, getMetadata());
+    }
+
+    private MethodMetadata getMetadata() {
+        MethodMetadata callMetadata = metadata;
+        if (callMetadata == null) {
+            callMetadata = interfaceMetadata.getMethodMetadata(method);
+            metadata = callMetadata;
+        }
+        return callMetadata;
+    }
+
+}
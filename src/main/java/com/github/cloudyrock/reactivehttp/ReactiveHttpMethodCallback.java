@@ -0,0 +1,31 @@
+package com.github.cloudyrock.reactivehttp;
+
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+
+import java.lang.reflect.Method;
+
+/**
+ * Callback dedicated to a single proxied method, selected once by
+ * {@link ReactiveHttpCallbackFilter} when the proxy class is generated, so a call
+ * reaches its request pipeline without looking its metadata up.
+ */
+final class ReactiveHttpMethodCallback implements MethodInterceptor {
+
+    private final ReactiveHttpInterceptor interceptor;
+    private final MethodMetadata metadata;
+
+    ReactiveHttpMethodCallback(ReactiveHttpInterceptor interceptor, MethodMetadata metadata) {
+        this.interceptor = interceptor;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public Object intercept(Object calledObject,
+                            Method calledMethod,
+                            Object[] execParams,
+                            MethodProxy methodProxy) throws Throwable {
+        return interceptor.intercept(calledObject, calledMethod, execParams, metadata);
+    }
+
+}
@@ -7,4 +7,8 @@ public final class ReactiveHttpConfigurationException extends RuntimeException {
         super(ex);
     }
 
+    public ReactiveHttpConfigurationException(String message) {
+        super(message);
+    }
+
 }
@@ -0,0 +1,125 @@
+package com.github.cloudyrock.reactivehttp;
+
+import com.github.cloudyrock.reactivehttp.annotations.PathParam;
+import com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch cost per proxied call: the former {@code HashMap<Method, MethodMetadata>}
+ * lookup against the per-method callbacks selected by {@link ReactiveHttpCallbackFilter}.
+ * The request pipeline is replaced by a constant result so only dispatch is measured.
+ *
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-classpath %classpath com.github.cloudyrock.reactivehttp.DispatchBenchmark"
+ * </pre>
+ *
+ * It has to run in its own JVM, as the forked benchmark JVM inherits the test
+ * classpath from {@code java.class.path}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+    public interface BenchmarkClient {
+
+        @ReactiveHttp(url = "/users/{id}", httpMethod = HttpMethod.GET)
+        Mono<String> getUser(@PathParam("id") String id);
+
+        @ReactiveHttp(url = "/orders/{id}", httpMethod = HttpMethod.GET)
+        Mono<String> getOrder(@PathParam("id") String id);
+
+        @ReactiveHttp(url = "/items/{id}", httpMethod = HttpMethod.GET)
+        Mono<String> getItem(@PathParam("id") String id);
+
+        @ReactiveHttp(url = "/items/{id}", httpMethod = HttpMethod.DELETE)
+        Mono<String> deleteItem(@PathParam("id") String id);
+    }
+
+    private static final Mono<Object> RESULT = Mono.empty();
+
+    private BenchmarkClient mapLookupClient;
+    private BenchmarkClient callbackClient;
+
+    @Setup
+    public void setUp() {
+        final InterfaceMetadata interfaceMetadata = InterfaceMetadata.forClass(BenchmarkClient.class);
+        interfaceMetadata.initializeAll();
+        final ReactiveHttpInterceptor interceptor = new NoRequestInterceptor();
+
+        final Map<Method, MethodMetadata> metadataMap = new HashMap<>();
+        interfaceMetadata.getAnnotatedMethods()
+                .forEach(method -> metadataMap.put(method, interfaceMetadata.getMethodMetadata(method)));
+        mapLookupClient = (BenchmarkClient) Enhancer.create(
+                BenchmarkClient.class,
+                (MethodInterceptor) (object, method, args, proxy) -> {
+                    final MethodMetadata metadata = metadataMap.get(method);
+                    if (metadata == null) {
+                        throw new RuntimeException(
+                                String.format("Not found metadata for method %s", method.getName()));
+                    }
+                    return interceptor.intercept(object, method, args, metadata);
+                });
+
+        callbackClient = ReactiveHttpBuilderImpl.createProxy(
+                BenchmarkClient.class, interfaceMetadata, interceptor, false);
+    }
+
+    @Benchmark
+    public Object mapLookup() {
+        return mapLookupClient.getItem("id");
+    }
+
+    @Benchmark
+    public Object callbackDispatch() {
+        return callbackClient.getItem("id");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DispatchBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    private static final class NoRequestInterceptor extends ReactiveHttpInterceptor {
+
+        NoRequestInterceptor() {
+            super(null, null);
+        }
+
+        @Override
+        Object intercept(Object calledObject,
+                         Method calledMethod,
+                         Object[] execParams,
+                         MethodMetadata callMetadata) {
+            return RESULT;
+        }
+    }
+
+}
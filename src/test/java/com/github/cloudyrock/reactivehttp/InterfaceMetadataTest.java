@@ -0,0 +1,105 @@
+package com.github.cloudyrock.reactivehttp;
+
+import com.github.cloudyrock.reactivehttp.annotations.FormParam;
+import com.github.cloudyrock.reactivehttp.annotations.PartParam;
+import com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class InterfaceMetadataTest {
+
+    interface UploadClient {
+
+        @ReactiveHttp(url = "/files", httpMethod = HttpMethod.POST)
+        Mono<String> upload(@PartParam("file") Path file,
+                            @PartParam("content") Flux<DataBuffer> content,
+                            @PartParam("info") Mono<Info> info);
+    }
+
+    interface GetWithFormClient {
+
+        @ReactiveHttp(url = "/search", httpMethod = HttpMethod.GET)
+        Mono<String> search(@FormParam("query") String query);
+    }
+
+    interface DeleteWithPartClient {
+
+        @ReactiveHttp(url = "/files", httpMethod = HttpMethod.DELETE)
+        Mono<String> delete(@PartParam("file") Path file);
+    }
+
+    interface ContentTypeClient {
+
+        @ReactiveHttp(url = "/form", httpMethod = HttpMethod.POST)
+        Mono<String> defaultForm(@FormParam("name") String name);
+
+        @ReactiveHttp(url = "/files", httpMethod = HttpMethod.POST,
+                contentType = "multipart/form-data;charset=UTF-8")
+        Mono<String> explicitMultipart(@PartParam("file") Path file);
+    }
+
+    interface ConflictingContentTypeClient {
+
+        @ReactiveHttp(url = "/files", httpMethod = HttpMethod.POST, contentType = "multipart/mixed")
+        Mono<String> upload(@PartParam("file") Path file);
+    }
+
+    static class Info {
+    }
+
+    @Test
+    public void shouldResolvePublisherPartElementTypes() throws Exception {
+        final Method method = UploadClient.class.getMethod("upload", Path.class, Flux.class, Mono.class);
+        final MethodMetadata metadata = InterfaceMetadata.forClass(UploadClient.class).getMethodMetadata(method);
+
+        assertNull(part(metadata, 0).getElementType());
+        assertEquals(DataBuffer.class, part(metadata, 1).getElementType());
+        assertEquals(Info.class, part(metadata, 2).getElementType());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void shouldRejectFormParamsOnMethodWithoutBody() {
+        InterfaceMetadata.forClass(GetWithFormClient.class).initializeAll();
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void shouldRejectPartParamsOnMethodWithoutBody() {
+        InterfaceMetadata.forClass(DeleteWithPartClient.class).initializeAll();
+    }
+
+    @Test
+    public void shouldReplaceDefaultContentTypeForFormParams() throws Exception {
+        final Method method = ContentTypeClient.class.getMethod("defaultForm", String.class);
+
+        assertEquals(MediaType.APPLICATION_FORM_URLENCODED,
+                InterfaceMetadata.forClass(ContentTypeClient.class).getMethodMetadata(method).getContentType());
+    }
+
+    @Test
+    public void shouldKeepCompatibleExplicitContentTypeForPartParams() throws Exception {
+        final Method method = ContentTypeClient.class.getMethod("explicitMultipart", Path.class);
+
+        assertEquals(MediaType.parseMediaType("multipart/form-data;charset=UTF-8"),
+                InterfaceMetadata.forClass(ContentTypeClient.class).getMethodMetadata(method).getContentType());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void shouldRejectConflictingExplicitContentType() {
+        InterfaceMetadata.forClass(ConflictingContentTypeClient.class).initializeAll();
+    }
+
+    private static PartParameterMetadata part(MethodMetadata metadata, int index) {
+        return (PartParameterMetadata) metadata.getParametersMetadata().get(index);
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.github.cloudyrock.reactivehttp;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Runs a call through a proxy from N concurrent callers and reports throughput,
+ * latency percentiles and allocation.
+ *
+ * <pre>
+ * LoadReport report = LoadDriver.create()
+ *         .concurrency(64)
+ *         .warmupCalls(10_000)
+ *         .calls(100_000)
+ *         .run(() -> client.getUser("john"));
+ * </pre>
+ */
+public final class LoadDriver {
+
+    private int concurrency = 1;
+    private int warmupCalls;
+    private int calls = 1000;
+
+    private LoadDriver() {
+    }
+
+    public static LoadDriver create() {
+        return new LoadDriver();
+    }
+
+    public LoadDriver concurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public LoadDriver warmupCalls(int warmupCalls) {
+        this.warmupCalls = warmupCalls;
+        return this;
+    }
+
+    public LoadDriver calls(int calls) {
+        this.calls = calls;
+        return this;
+    }
+
+    public LoadReport run(Supplier<? extends Publisher<?>> call) {
+        execute(warmupCalls, call, new long[warmupCalls]);
+
+        final long[] latencies = new long[calls];
+        final long allocatedBefore = getAllocatedBytes();
+        final long start = System.nanoTime();
+        final long errors = execute(calls, call, latencies);
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = getAllocatedBytes() - allocatedBefore;
+        return new LoadReport(calls, errors, elapsed, latencies, allocated);
+    }
+
+    private long execute(int count, Supplier<? extends Publisher<?>> call, long[] latencies) {
+        final AtomicLong errors = new AtomicLong();
+        Flux.range(0, count)
+                .flatMap(index -> timedCall(call, index, latencies, errors), concurrency)
+                .blockLast();
+        return errors.get();
+    }
+
+    private static Mono<Void> timedCall(Supplier<? extends Publisher<?>> call,
+                                        int index,
+                                        long[] latencies,
+                                        AtomicLong errors) {
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            return Flux.from(call.get())
+                    .then()
+                    .onErrorResume(ex -> {
+                        errors.incrementAndGet();
+                        return Mono.empty();
+                    })
+                    .doOnTerminate(() -> latencies[index] = System.nanoTime() - start);
+        });
+    }
+
+    /**
+     * Bytes allocated so far by the live client-side threads of this JVM, leaving
+     * out the threads of an in-process {@link StubServer}. Threads that die between
+     * two readings are lost, so it is an approximation good enough to compare runs
+     * of the same scenario.
+     */
+    private static long getAllocatedBytes() {
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long[] clientThreadIds = Stream
+                .of(threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds()))
+                .filter(Objects::nonNull)
+                .filter(info -> !info.getThreadName().startsWith(StubServer.THREAD_NAME_PREFIX))
+                .mapToLong(ThreadInfo::getThreadId)
+                .toArray();
+        long total = 0L;
+        for (final long allocated : threadMXBean.getThreadAllocatedBytes(clientThreadIds)) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+}
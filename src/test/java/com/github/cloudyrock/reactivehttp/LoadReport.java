@@ -0,0 +1,78 @@
+package com.github.cloudyrock.reactivehttp;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public final class LoadReport {
+
+    private final int calls;
+    private final long errors;
+    private final long elapsedNanos;
+    private final long[] sortedLatencies;
+    private final long allocatedBytes;
+
+    LoadReport(int calls, long errors, long elapsedNanos, long[] latencies, long allocatedBytes) {
+        this.calls = calls;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.sortedLatencies = latencies.clone();
+        Arrays.sort(this.sortedLatencies);
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public int getCalls() {
+        return calls;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughput() {
+        return calls * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    public Duration getLatency(double percentile) {
+        if (sortedLatencies.length == 0) {
+            return Duration.ZERO;
+        }
+        final int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return Duration.ofNanos(sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))]);
+    }
+
+    public Duration getP50() {
+        return getLatency(0.50);
+    }
+
+    public Duration getP99() {
+        return getLatency(0.99);
+    }
+
+    public Duration getP999() {
+        return getLatency(0.999);
+    }
+
+    public long getAllocatedBytesPerCall() {
+        return calls == 0 ? 0L : allocatedBytes / calls;
+    }
+
+    public double getAllocationRate() {
+        return allocatedBytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "calls=%d errors=%d throughput=%.1f/s p50=%.3fms p99=%.3fms p999=%.3fms "
+                        + "client allocation=%.1fMB/s (%d B/call)",
+                calls,
+                errors,
+                getThroughput(),
+                getP50().toNanos() / 1e6,
+                getP99().toNanos() / 1e6,
+                getP999().toNanos() / 1e6,
+                getAllocationRate() / (1024 * 1024),
+                getAllocatedBytesPerCall());
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.cloudyrock.reactivehttp;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+
+public class LoadReportTest {
+
+    @Test
+    public void shouldComputeLatencyPercentiles() {
+        final long[] latencies = new long[1000];
+        for (int index = 0; index < latencies.length; index++) {
+            latencies[latencies.length - 1 - index] = index + 1;
+        }
+
+        final LoadReport report = new LoadReport(1000, 0, Duration.ofSeconds(2).toNanos(), latencies, 4000);
+
+        assertEquals(Duration.ofNanos(500), report.getP50());
+        assertEquals(Duration.ofNanos(990), report.getP99());
+        assertEquals(Duration.ofNanos(999), report.getP999());
+        assertEquals(500.0, report.getThroughput(), 0.001);
+        assertEquals(4, report.getAllocatedBytesPerCall());
+    }
+
+}
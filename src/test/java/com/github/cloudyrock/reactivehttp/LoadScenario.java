@@ -0,0 +1,43 @@
+package com.github.cloudyrock.reactivehttp;
+
+import java.time.Duration;
+
+/**
+ * Local performance regression check: runs {@link SampleClient#getUser} through a
+ * proxy against a {@link StubServer} and prints the {@link LoadReport}.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.github.cloudyrock.reactivehttp.LoadScenario \
+ *     -Dexec.args="64 100000 1"
+ * </pre>
+ *
+ * Arguments: concurrency, calls and stub latency in milliseconds.
+ */
+public final class LoadScenario {
+
+    private LoadScenario() {
+    }
+
+    public static void main(String[] args) {
+        final int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        final int calls = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        final long latencyMillis = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+
+        try (StubServer server = StubServer.start(SampleClient.class)) {
+            server.stub("getUser")
+                    .text("{\"name\":\"john\"}")
+                    .latency(Duration.ofMillis(latencyMillis));
+            final SampleClient client = ReactiveHttpBuilder.defaultBuilder()
+                    .target(SampleClient.class, server.getBaseUrl());
+
+            final LoadReport report = LoadDriver.create()
+                    .concurrency(concurrency)
+                    .warmupCalls(calls / 10)
+                    .calls(calls)
+                    .run(() -> client.getUser("42"));
+            System.out.println(report);
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.github.cloudyrock.reactivehttp;
+
+import com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp;
+import com.github.cloudyrock.reactivehttp.exception.ReactiveHttpConfigurationException;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ReactiveHttpBuilderImplTest {
+
+    public interface LazyClient {
+
+        @ReactiveHttp(url = "/first", httpMethod = HttpMethod.GET)
+        Mono<String> first();
+
+        @ReactiveHttp(url = "/second", httpMethod = HttpMethod.GET)
+        Mono<String> second();
+    }
+
+    public interface MalformedClient {
+
+        @ReactiveHttp(url = "/valid", httpMethod = HttpMethod.GET)
+        Mono<String> valid();
+
+        @ReactiveHttp(url = "/malformed", httpMethod = HttpMethod.GET)
+        Mono<String> malformed(String notAnnotated);
+    }
+
+    public interface SharedClient {
+
+        @ReactiveHttp(url = "/shared", httpMethod = HttpMethod.GET)
+        Mono<String> shared();
+    }
+
+    public interface PartiallyAnnotatedClient {
+
+        @ReactiveHttp(url = "/annotated", httpMethod = HttpMethod.GET)
+        Mono<String> annotated();
+
+        Mono<String> notAnnotated();
+    }
+
+    @Test
+    public void shouldHandleObjectMethodsOnProxy() {
+        final PartiallyAnnotatedClient client = ReactiveHttpBuilder.defaultBuilder()
+                .target(PartiallyAnnotatedClient.class, "http://localhost:1");
+
+        assertNotNull(client.toString());
+        assertEquals(client, client);
+        final Set<PartiallyAnnotatedClient> clients = new HashSet<>();
+        clients.add(client);
+        assertTrue(clients.contains(client));
+    }
+
+    @Test(expected = ReactiveHttpConfigurationException.class)
+    public void shouldFailWithConfigurationExceptionOnUnannotatedMethod() {
+        ReactiveHttpBuilder.defaultBuilder()
+                .target(PartiallyAnnotatedClient.class, "http://localhost:1")
+                .notAnnotated();
+    }
+
+    @Test
+    public void shouldParseMethodsOnFirstCallWhenLazy() throws Exception {
+        final LazyClient client = ReactiveHttpBuilder.defaultBuilder()
+                .lazyInitialization(true)
+                .target(LazyClient.class, "http://localhost:1");
+        final InterfaceMetadata interfaceMetadata = InterfaceMetadata.forClass(LazyClient.class);
+
+        assertFalse(interfaceMetadata.isParsed(LazyClient.class.getMethod("first")));
+        assertFalse(interfaceMetadata.isParsed(LazyClient.class.getMethod("second")));
+
+        assertNotNull(client.first());
+
+        assertTrue(interfaceMetadata.isParsed(LazyClient.class.getMethod("first")));
+        assertFalse(interfaceMetadata.isParsed(LazyClient.class.getMethod("second")));
+    }
+
+    @Test
+    public void shouldFailOnlyWhenMalformedMethodIsCalledWhenLazy() {
+        final MalformedClient client = ReactiveHttpBuilder.defaultBuilder()
+                .lazyInitialization(true)
+                .target(MalformedClient.class, "http://localhost:1");
+
+        assertNotNull(client.valid());
+        try {
+            client.malformed("value");
+            fail("Malformed method should fail on its first call");
+        } catch (RuntimeException ex) {
+            assertTrue(ex.getMessage().contains("not annotated"));
+        }
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void shouldFailOnTargetWhenMalformedMethodAndEager() {
+        ReactiveHttpBuilder.defaultBuilder()
+                .target(MalformedClient.class, "http://localhost:1");
+    }
+
+    @Test
+    public void shouldReuseMetadataAndProxyClassAcrossHosts() throws Exception {
+        final SharedClient first = ReactiveHttpBuilder.defaultBuilder()
+                .target(SharedClient.class, "http://first:1");
+        final InterfaceMetadata interfaceMetadata = InterfaceMetadata.forClass(SharedClient.class);
+        final MethodMetadata methodMetadata =
+                interfaceMetadata.getMethodMetadata(SharedClient.class.getMethod("shared"));
+
+        final SharedClient second = ReactiveHttpBuilder.defaultBuilder()
+                .target(SharedClient.class, "http://second:1");
+
+        assertSame(interfaceMetadata, InterfaceMetadata.forClass(SharedClient.class));
+        assertSame(methodMetadata, interfaceMetadata.getMethodMetadata(SharedClient.class.getMethod("shared")));
+        assertEquals(first.getClass(), second.getClass());
+    }
+
+}
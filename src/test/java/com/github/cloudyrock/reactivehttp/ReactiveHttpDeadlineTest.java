@@ -0,0 +1,27 @@
+package com.github.cloudyrock.reactivehttp;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+
+public class ReactiveHttpDeadlineTest {
+
+    @Test
+    public void shouldFormatInNanosWhenFitting() {
+        assertEquals("50000000n", ReactiveHttpDeadline.toTimeoutHeaderValue(Duration.ofMillis(50)));
+    }
+
+    @Test
+    public void shouldFormatInFinestUnitWithAtMostEightDigits() {
+        assertEquals("5000000u", ReactiveHttpDeadline.toTimeoutHeaderValue(Duration.ofSeconds(5)));
+        assertEquals("3600000S", ReactiveHttpDeadline.toTimeoutHeaderValue(Duration.ofHours(1000)));
+    }
+
+    @Test
+    public void shouldFormatInHoursForLongestDeadlines() {
+        assertEquals("2400000H", ReactiveHttpDeadline.toTimeoutHeaderValue(Duration.ofDays(100_000)));
+    }
+
+}
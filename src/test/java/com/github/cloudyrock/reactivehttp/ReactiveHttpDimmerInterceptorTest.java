@@ -0,0 +1,129 @@
+package com.github.cloudyrock.reactivehttp;
+
+import com.github.cloudyrock.dimmer.DimmerFeature;
+import com.github.cloudyrock.dimmer.FeatureExecutor;
+import com.github.cloudyrock.dimmer.FeatureInvocation;
+import com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class ReactiveHttpDimmerInterceptorTest {
+
+    private static final String FEATURE = "shared-feature";
+
+    public interface SharedFeatureClient {
+
+        @DimmerFeature(FEATURE)
+        @ReactiveHttp(url = "/first", httpMethod = HttpMethod.GET)
+        Mono<String> first();
+
+        @DimmerFeature(FEATURE)
+        @ReactiveHttp(url = "/second", httpMethod = HttpMethod.GET)
+        Mono<String> second();
+    }
+
+    private final List<String> executedOperations = new CopyOnWriteArrayList<>();
+    private final Set<String> divertedOperations = ConcurrentHashMap.newKeySet();
+    private final ReactiveHttpFeatureToggles toggles = new ReactiveHttpFeatureToggles();
+    private StubServer server;
+    private SharedFeatureClient client;
+    private SharedFeatureClient toggledClient;
+
+    @Before
+    public void setUp() {
+        server = StubServer.start(SharedFeatureClient.class);
+        server.stub("first").text("real first");
+        server.stub("second").text("real second");
+        divertedOperations.add("second");
+        client = ReactiveHttpBuilder.defaultBuilder()
+                .dimmerFeatureExecutor(new DivertingBehaviourExecutor())
+                .target(SharedFeatureClient.class, server.getBaseUrl());
+        toggledClient = ReactiveHttpBuilder.defaultBuilder()
+                .dimmerFeatureExecutor(new DivertingBehaviourExecutor())
+                .dimmerFeatureToggles(toggles)
+                .target(SharedFeatureClient.class, server.getBaseUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void shouldKeepDivertingMethodWithBehaviourWhenAnotherMethodOfTheFeatureProceeds() {
+        assertEquals("real first", client.first().block());
+        assertEquals("behaviour", client.second().block());
+        assertEquals("real first", client.first().block());
+        assertEquals("behaviour", client.second().block());
+
+        assertEquals(asList("first", "second", "first", "second"), executedOperations);
+        assertEquals(2, server.getRequestCount("first"));
+        assertEquals(0, server.getRequestCount("second"));
+    }
+
+    @Test
+    public void shouldFollowExecutorDecisionOnEveryCallWhenNoTogglesAreConfigured() {
+        assertEquals("real first", client.first().block());
+
+        divertedOperations.add("first");
+        assertEquals("behaviour", client.first().block());
+
+        divertedOperations.remove("first");
+        assertEquals("real first", client.first().block());
+
+        assertEquals(asList("first", "first", "first"), executedOperations);
+        assertEquals(2, server.getRequestCount("first"));
+    }
+
+    @Test
+    public void shouldSkipExecutorOnlyWhileFeatureIsEnabledInToggles() {
+        toggles.enable(FEATURE);
+        assertEquals("real first", toggledClient.first().block());
+        assertEquals("real second", toggledClient.second().block());
+
+        toggles.disable(FEATURE);
+        assertEquals("real first", toggledClient.first().block());
+        assertEquals("behaviour", toggledClient.second().block());
+
+        assertEquals(asList("first", "second"), executedOperations);
+        assertEquals(2, server.getRequestCount("first"));
+        assertEquals(1, server.getRequestCount("second"));
+    }
+
+    @Test
+    public void shouldSkipExecutorOnceFeatureIsEnabledAfterFirstCall() {
+        assertEquals("behaviour", toggledClient.second().block());
+
+        toggles.enable(FEATURE);
+        assertEquals("real second", toggledClient.second().block());
+
+        assertEquals(asList("second"), executedOperations);
+        assertEquals(1, server.getRequestCount("second"));
+    }
+
+    private final class DivertingBehaviourExecutor implements FeatureExecutor {
+
+        @Override
+        public Object executeDimmerFeature(String feature,
+                                           FeatureInvocation featureInvocation,
+                                           Supplier<Object> realMethod) throws Throwable {
+            executedOperations.add(featureInvocation.getOperation());
+            return divertedOperations.contains(featureInvocation.getOperation())
+                    ? Mono.just("behaviour")
+                    : realMethod.get();
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.github.cloudyrock.reactivehttp;
+
+import com.github.cloudyrock.reactivehttp.annotations.FormParam;
+import com.github.cloudyrock.reactivehttp.annotations.PartParam;
+import com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReactiveHttpInterceptorBodyTest {
+
+    private static final long SMALL_FILE_SIZE = 2L * 1024 * 1024;
+    private static final long LARGE_FILE_SIZE = 32L * 1024 * 1024;
+
+    public interface BodyClient {
+
+        @ReactiveHttp(url = "/form", httpMethod = HttpMethod.POST)
+        Mono<String> submitForm(@FormParam("name") String name, @FormParam("city") String city);
+
+        @ReactiveHttp(url = "/upload", httpMethod = HttpMethod.POST)
+        Mono<String> upload(@PartParam("file") Path file, @PartParam("content") Flux<DataBuffer> content);
+
+        @ReactiveHttp(url = "/upload-file", httpMethod = HttpMethod.POST)
+        Mono<String> uploadFile(@PartParam("file") Path file);
+    }
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private StubServer server;
+    private BodyClient client;
+
+    @Before
+    public void setUp() {
+        server = StubServer.start(BodyClient.class);
+        server.stub("submitForm").text("ok");
+        server.stub("upload").text("ok");
+        server.stub("uploadFile").text("ok");
+        client = ReactiveHttpBuilder.defaultBuilder()
+                .target(BodyClient.class, server.getBaseUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void shouldSendFormParamsUrlEncoded() {
+        assertEquals("ok", client.submitForm("john", "London").block());
+
+        assertTrue(server.getLastRequestHeader("submitForm", "Content-Type")
+                .startsWith("application/x-www-form-urlencoded"));
+        assertEquals("name=john&city=London", server.getLastRequestBody("submitForm"));
+    }
+
+    @Test
+    public void shouldSendFileAndPublisherPartsAsMultipart() throws IOException {
+        final Path file = folder.newFile("upload.txt").toPath();
+        Files.write(file, "file content".getBytes(UTF_8));
+        final Flux<DataBuffer> content = Flux.just(
+                new DefaultDataBufferFactory().wrap("streamed content".getBytes(UTF_8)));
+
+        assertEquals("ok", client.upload(file, content).block());
+
+        final String contentType = server.getLastRequestHeader("upload", "Content-Type");
+        assertTrue(contentType.startsWith("multipart/form-data"));
+        assertTrue(contentType.contains("boundary="));
+        final String body = server.getLastRequestBody("upload");
+        assertTrue(body.contains("name=\"file\"; filename=\"upload.txt\""));
+        assertTrue(body.contains("file content"));
+        assertTrue(body.contains("name=\"content\""));
+        assertTrue(body.contains("streamed content"));
+    }
+
+    @Test
+    public void shouldStreamFilePartsWithoutAllocatingTheirSize() throws IOException {
+        final LoadReport small = uploadFile(createFile("small.bin", SMALL_FILE_SIZE));
+        assertTrue(server.getLastRequestBodySize("uploadFile") > SMALL_FILE_SIZE);
+
+        final LoadReport large = uploadFile(createFile("large.bin", LARGE_FILE_SIZE));
+        assertTrue(server.getLastRequestBodySize("uploadFile") > LARGE_FILE_SIZE);
+
+        assertEquals(0, small.getErrors());
+        assertEquals(0, large.getErrors());
+        assertTrue("Allocated " + large.getAllocatedBytesPerCall() + " bytes for a "
+                        + LARGE_FILE_SIZE + " bytes file",
+                large.getAllocatedBytesPerCall() < LARGE_FILE_SIZE / 4);
+    }
+
+    private LoadReport uploadFile(Path file) {
+        return LoadDriver.create()
+                .warmupCalls(1)
+                .calls(1)
+                .run(() -> client.uploadFile(file));
+    }
+
+    private Path createFile(String name, long size) throws IOException {
+        final Path file = folder.newFile(name).toPath();
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "rw")) {
+            randomAccessFile.setLength(size);
+        }
+        return file;
+    }
+
+}
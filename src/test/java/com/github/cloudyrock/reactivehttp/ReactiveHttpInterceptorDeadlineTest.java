@@ -0,0 +1,120 @@
+package com.github.cloudyrock.reactivehttp;
+
+import com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.resources.PoolResources;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ReactiveHttpInterceptorDeadlineTest {
+
+    private static final String DEADLINE_HEADER = "grpc-timeout";
+
+    public interface DeadlineClient {
+
+        @ReactiveHttp(url = "/fast", httpMethod = HttpMethod.GET)
+        Mono<String> fast();
+
+        @ReactiveHttp(url = "/slow", httpMethod = HttpMethod.GET)
+        Mono<String> slow();
+    }
+
+    private StubServer server;
+    private DeadlineClient client;
+    private PoolResources singleConnectionPool;
+
+    @Before
+    public void setUp() {
+        server = StubServer.start(DeadlineClient.class);
+        server.stub("fast").text("fast");
+        server.stub("slow").text("slow").latency(Duration.ofSeconds(5));
+        client = ReactiveHttpBuilder.defaultBuilder()
+                .target(DeadlineClient.class, server.getBaseUrl());
+    }
+
+    @After
+    public void tearDown() {
+        if (singleConnectionPool != null) {
+            singleConnectionPool.dispose();
+        }
+        server.close();
+    }
+
+    @Test
+    public void shouldFailWithoutSendingRequestWhenDeadlineExpired() {
+        StepVerifier.create(client.fast().subscriberContext(deadline(Duration.ZERO)))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(1));
+
+        assertEquals(0, server.getRequestCount("fast"));
+    }
+
+    @Test
+    public void shouldSendRemainingTimeInDeadlineHeader() {
+        StepVerifier.create(client.fast().subscriberContext(deadline(Duration.ofSeconds(10))))
+                .expectNext("fast")
+                .verifyComplete();
+
+        final String header = server.getLastRequestHeader("fast", DEADLINE_HEADER);
+        assertTrue(header.endsWith("u"));
+        final long micros = Long.parseLong(header.substring(0, header.length() - 1));
+        assertTrue(micros > 0 && micros <= Duration.ofSeconds(10).toNanos() / 1000);
+    }
+
+    @Test
+    public void shouldNotLeakDeadlineHeaderAcrossSubscriptions() {
+        final Mono<String> call = client.fast();
+
+        StepVerifier.create(call.subscriberContext(deadline(Duration.ofSeconds(10))))
+                .expectNext("fast")
+                .verifyComplete();
+        StepVerifier.create(call)
+                .expectNext("fast")
+                .verifyComplete();
+
+        assertEquals(2, server.getRequestCount("fast"));
+        assertNull(server.getLastRequestHeader("fast", DEADLINE_HEADER));
+    }
+
+    @Test
+    public void shouldCapExchangeToRemainingTime() {
+        StepVerifier.create(client.slow().subscriberContext(deadline(Duration.ofMillis(200))))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void shouldReleasePooledConnectionWhenDeadlineCancelsExchange() {
+        singleConnectionPool = PoolResources.fixed("deadline-test", 1);
+        final DeadlineClient pooledClient = ReactiveHttpBuilder.defaultBuilder()
+                .clientConnector(new ReactorClientHttpConnector(
+                        options -> options.poolResources(singleConnectionPool)))
+                .target(DeadlineClient.class, server.getBaseUrl());
+
+        StepVerifier.create(pooledClient.slow().subscriberContext(deadline(Duration.ofMillis(200))))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+
+        StepVerifier.create(pooledClient.fast().subscriberContext(deadline(Duration.ofSeconds(2))))
+                .expectNext("fast")
+                .verifyComplete();
+        assertEquals(1, server.getRequestCount("fast"));
+    }
+
+    private static Context deadline(Duration timeout) {
+        return Context.of(ReactiveHttpDeadline.CONTEXT_KEY, ReactiveHttpDeadline.after(timeout));
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.github.cloudyrock.reactivehttp;
+
+import com.github.cloudyrock.reactivehttp.annotations.BodyParam;
+import com.github.cloudyrock.reactivehttp.annotations.PathParam;
+import com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Mono;
+
+public interface SampleClient {
+
+    @ReactiveHttp(url = "/users/{id}", httpMethod = HttpMethod.GET)
+    Mono<String> getUser(@PathParam("id") String id);
+
+    @ReactiveHttp(url = "/users", httpMethod = HttpMethod.POST, contentType = "text/plain")
+    Mono<String> createUser(@BodyParam String user);
+
+    @ReactiveHttp(url = "/events", httpMethod = HttpMethod.GET)
+    Mono<String> getEvents();
+
+    @ReactiveHttp(url = "/failing", httpMethod = HttpMethod.GET)
+    Mono<String> failing();
+}
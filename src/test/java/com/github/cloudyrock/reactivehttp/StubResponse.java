@@ -0,0 +1,81 @@
+package com.github.cloudyrock.reactivehttp;
+
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Canned response served by {@link StubServer} for one interface method.
+ */
+public final class StubResponse {
+
+    private int status = 200;
+    private String contentType = MediaType.APPLICATION_JSON_VALUE;
+    private List<String> chunks = Collections.emptyList();
+    private Duration latency = Duration.ZERO;
+    private Duration chunkDelay = Duration.ZERO;
+
+    StubResponse() {
+    }
+
+    public StubResponse status(int status) {
+        this.status = status;
+        return this;
+    }
+
+    public StubResponse contentType(String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    public StubResponse body(String body) {
+        this.chunks = Collections.singletonList(body);
+        return this;
+    }
+
+    public StubResponse text(String body) {
+        return contentType(MediaType.TEXT_PLAIN_VALUE).body(body);
+    }
+
+    /**
+     * Sends the body as several chunks, waiting the given delay before each one,
+     * to simulate a slow streaming upstream.
+     */
+    public StubResponse streamingBody(Duration chunkDelay, String... chunks) {
+        this.chunkDelay = chunkDelay;
+        this.chunks = Arrays.asList(chunks);
+        return this;
+    }
+
+    public StubResponse latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public StubResponse error(int status, String body) {
+        return status(status).body(body);
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    List<String> getChunks() {
+        return chunks;
+    }
+
+    Duration getLatency() {
+        return latency;
+    }
+
+    Duration getChunkDelay() {
+        return chunkDelay;
+    }
+}
@@ -0,0 +1,178 @@
+package com.github.cloudyrock.reactivehttp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.ipc.netty.NettyContext;
+import reactor.ipc.netty.http.server.HttpPredicate;
+import reactor.ipc.netty.http.server.HttpServer;
+import reactor.ipc.netty.http.server.HttpServerResponse;
+import reactor.ipc.netty.resources.LoopResources;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Embedded Reactor Netty server exposing a route for every {@link
+ * com.github.cloudyrock.reactivehttp.annotations.ReactiveHttp} method of an
+ * interface, so a proxy can be exercised without any external service.
+ *
+ * <pre>
+ * try (StubServer server = StubServer.start(UserClient.class)) {
+ *     server.stub("getUser").body("{\"name\":\"john\"}").latency(Duration.ofMillis(5));
+ *     UserClient client = ReactiveHttpBuilder.defaultBuilder()
+ *             .target(UserClient.class, server.getBaseUrl());
+ *     ...
+ * }
+ * </pre>
+ *
+ * Methods without a stub answer 200 with an empty body. All server work runs on
+ * threads named after {@link #THREAD_NAME_PREFIX}, so it can be told apart from the
+ * client under test.
+ */
+public final class StubServer implements AutoCloseable {
+
+    public static final String THREAD_NAME_PREFIX = "stub-server";
+
+    private static final int MAX_RECORDED_BODY_BYTES = 1024 * 1024;
+
+    private final Map<String, StubResponse> stubs = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+    private final Map<String, HttpHeaders> lastRequestHeaders = new ConcurrentHashMap<>();
+    private final Map<String, String> lastRequestBodies = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastRequestBodySizes = new ConcurrentHashMap<>();
+    private final LoopResources loopResources = LoopResources.create(THREAD_NAME_PREFIX);
+    private final Scheduler timer = Schedulers.newParallel(THREAD_NAME_PREFIX + "-timer");
+    private final NettyContext context;
+
+    private StubServer(Class<?> apiClass) {
+        final InterfaceMetadata interfaceMetadata = InterfaceMetadata.forClass(apiClass);
+        interfaceMetadata.initializeAll();
+        this.context = HttpServer.create(options -> options
+                        .host("localhost")
+                        .port(0)
+                        .loopResources(loopResources))
+                .newRouter(routes -> {
+                    for (final Method method : interfaceMetadata.getAnnotatedMethods()) {
+                        final MethodMetadata metadata = interfaceMetadata.getMethodMetadata(method);
+                        final String methodName = method.getName();
+                        requestCounts.put(methodName, new AtomicLong());
+                        routes.route(
+                                HttpPredicate.http(
+                                        toPath(metadata.getUrl()),
+                                        HttpVersion.HTTP_1_1,
+                                        HttpMethod.valueOf(metadata.getHttpMethod().name())),
+                                (request, response) -> {
+                                    requestCounts.get(methodName).incrementAndGet();
+                                    lastRequestHeaders.put(methodName, request.requestHeaders().copy());
+                                    final ByteArrayOutputStream body = new ByteArrayOutputStream();
+                                    final AtomicLong bodySize = new AtomicLong();
+                                    return request.receive()
+                                            .doOnNext(buffer -> recordBody(buffer, body, bodySize))
+                                            .then()
+                                            .then(Mono.defer(() -> {
+                                                lastRequestBodies.put(methodName, new String(body.toByteArray(), UTF_8));
+                                                lastRequestBodySizes.put(methodName, bodySize.get());
+                                                return respond(response, getStub(methodName));
+                                            }));
+                                });
+                    }
+                })
+                .block();
+    }
+
+    public static StubServer start(Class<?> apiClass) {
+        return new StubServer(apiClass);
+    }
+
+    /**
+     * Returns the response served for the given interface method, creating it if
+     * needed. Configure it before the calls that should see it.
+     */
+    public StubResponse stub(String methodName) {
+        return stubs.computeIfAbsent(methodName, name -> new StubResponse());
+    }
+
+    public long getRequestCount(String methodName) {
+        final AtomicLong count = requestCounts.get(methodName);
+        return count != null ? count.get() : 0L;
+    }
+
+    /**
+     * Returns the given header of the last request received by the given method,
+     * or null if there was none.
+     */
+    public String getLastRequestHeader(String methodName, String headerName) {
+        final HttpHeaders headers = lastRequestHeaders.get(methodName);
+        return headers != null ? headers.get(headerName) : null;
+    }
+
+    /**
+     * Returns the body of the last request received by the given method, decoded as
+     * UTF-8 and truncated to its first megabyte, or null if there was none.
+     */
+    public String getLastRequestBody(String methodName) {
+        return lastRequestBodies.get(methodName);
+    }
+
+    public long getLastRequestBodySize(String methodName) {
+        final Long size = lastRequestBodySizes.get(methodName);
+        return size != null ? size : 0L;
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + context.address().getPort();
+    }
+
+    @Override
+    public void close() {
+        context.dispose();
+        loopResources.dispose();
+        timer.dispose();
+    }
+
+    private StubResponse getStub(String methodName) {
+        final StubResponse stub = stubs.get(methodName);
+        return stub != null ? stub : new StubResponse();
+    }
+
+    private Mono<Void> respond(HttpServerResponse response, StubResponse stub) {
+        final Mono<Void> latency = stub.getLatency().isZero()
+                ? Mono.empty()
+                : Mono.delay(stub.getLatency(), timer).then();
+        final Flux<String> body = stub.getChunkDelay().isZero()
+                ? Flux.fromIterable(stub.getChunks())
+                : Flux.fromIterable(stub.getChunks()).delayElements(stub.getChunkDelay(), timer);
+        return latency.then(Mono.defer(() -> response
+                .status(stub.getStatus())
+                .header("Content-Type", stub.getContentType())
+                .sendString(body)
+                .then()));
+    }
+
+    private static void recordBody(ByteBuf buffer, ByteArrayOutputStream body, AtomicLong bodySize) {
+        final int readable = buffer.readableBytes();
+        bodySize.addAndGet(readable);
+        final int recorded = Math.min(readable, MAX_RECORDED_BODY_BYTES - body.size());
+        if (recorded > 0) {
+            final byte[] bytes = new byte[recorded];
+            buffer.getBytes(buffer.readerIndex(), bytes);
+            body.write(bytes, 0, recorded);
+        }
+    }
+
+    private static String toPath(String url) {
+        return url.startsWith("/") ? url : "/" + url;
+    }
+
+}
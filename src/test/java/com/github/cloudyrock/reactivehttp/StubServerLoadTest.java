@@ -0,0 +1,100 @@
+package com.github.cloudyrock.reactivehttp;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StubServerLoadTest {
+
+    private StubServer server;
+    private SampleClient client;
+
+    @Before
+    public void setUp() {
+        server = StubServer.start(SampleClient.class);
+        client = ReactiveHttpBuilder.defaultBuilder()
+                .target(SampleClient.class, server.getBaseUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void shouldRouteEachMethodToItsStub() {
+        server.stub("getUser").text("john");
+        server.stub("createUser").text("created");
+
+        assertEquals("john", client.getUser("42").block());
+        assertEquals("created", client.createUser("john").block());
+
+        assertEquals(1, server.getRequestCount("getUser"));
+        assertEquals(1, server.getRequestCount("createUser"));
+        assertEquals(0, server.getRequestCount("getEvents"));
+    }
+
+    @Test
+    public void shouldInjectErrorStatus() {
+        server.stub("failing").contentType("text/plain").error(500, "boom");
+
+        final ClientResponse response = WebClient.create(server.getBaseUrl())
+                .get()
+                .uri("/failing")
+                .exchange()
+                .block();
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.statusCode());
+        assertEquals("boom", response.bodyToMono(String.class).block());
+        assertEquals(1, server.getRequestCount("failing"));
+    }
+
+    @Test
+    public void shouldStreamChunkedBody() {
+        server.stub("getEvents")
+                .contentType("text/plain")
+                .streamingBody(Duration.ofMillis(20), "a", "b", "c");
+
+        assertEquals("abc", client.getEvents().block());
+    }
+
+    @Test
+    public void shouldDriveLoadThroughProxy() {
+        server.stub("getUser").text("john");
+
+        final LoadReport report = LoadDriver.create()
+                .concurrency(8)
+                .warmupCalls(20)
+                .calls(200)
+                .run(() -> client.getUser("42"));
+
+        assertEquals(220, server.getRequestCount("getUser"));
+        assertEquals(200, report.getCalls());
+        assertEquals(0, report.getErrors());
+        assertTrue(report.getThroughput() > 0);
+        assertTrue(report.getP50().compareTo(Duration.ZERO) > 0);
+        assertTrue(report.getP50().compareTo(report.getP99()) <= 0);
+        assertTrue(report.getP99().compareTo(report.getP999()) <= 0);
+    }
+
+    @Test
+    public void shouldReportInjectedLatency() {
+        server.stub("getUser").text("john").latency(Duration.ofMillis(100));
+
+        final LoadReport report = LoadDriver.create()
+                .concurrency(5)
+                .calls(5)
+                .run(() -> client.getUser("42"));
+
+        assertTrue(report.getP50().compareTo(Duration.ofMillis(100)) >= 0);
+    }
+
+}